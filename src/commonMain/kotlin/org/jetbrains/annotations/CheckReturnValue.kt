@@ -25,7 +25,7 @@ package org.jetbrains.annotations
  * When used on a type, the annotation applies to all methods that do not return `void`.
  *
  *
- * When used on a package, the annotation applies to all types of that package.
+ * When used on a package, the annotation applies to all types of that package. Subpackages are not affected.
  *
  * @see Contract.pure
  */
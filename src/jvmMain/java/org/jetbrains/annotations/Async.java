@@ -46,7 +46,8 @@ public final class Async {
   /**
    * Indicates that the marked method executes async computation.
    * Executed object is either {@code this}, or the annotated parameter value.
-   * This object needs to match with the one annotated with {@link Schedule}
+   * This object needs to match with the one annotated with {@link Schedule}:
+   * it must be the same instance, as objects are matched by identity rather than by {@code equals()}.
    */
   @Retention(RetentionPolicy.CLASS)
   @Target({ElementType.METHOD, ElementType.CONSTRUCTOR, ElementType.PARAMETER})
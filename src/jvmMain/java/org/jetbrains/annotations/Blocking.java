@@ -21,6 +21,12 @@ import java.lang.annotation.*;
 /**
  * Indicates that the annotated method is inherently blocking and should not be executed in a non-blocking context.
  * <p>
+ * A method is blocking if it may suspend the calling thread waiting for I/O, another thread, or a timeout,
+ * for example, by performing I/O, calling {@link Thread#sleep(long)}, {@link Object#wait()}
+ * or {@link java.util.concurrent.locks.LockSupport#park()}, or joining another thread or future.
+ * Short lock acquisitions which only keep the internal data consistent, like entering a {@code synchronized}
+ * method of {@link java.util.Vector}, are not considered blocking.
+ * <p>
  * When this annotation is used on a {@code class}, all the methods declared by the annotated class are considered
  * <em>blocking</em>.
  * <p>
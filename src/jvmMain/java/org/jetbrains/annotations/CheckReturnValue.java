@@ -24,7 +24,7 @@ import java.lang.annotation.Target;
  * <p>
  * When used on a type, the annotation applies to all methods that do not return {@code void}.
  * <p>
- * When used on a package, the annotation applies to all types of that package.
+ * When used on a package, the annotation applies to all types of that package. Subpackages are not affected.
  *
  * @see Contract#pure()
  * @since 24.0.0
@@ -20,7 +20,9 @@ import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Specifies some aspects of the method behavior depending on the arguments. Can be used by tools for advanced data flow analysis.
- * Note that this annotation just describes how the code works and doesn't add any functionality by means of code generation.<p>
+ * Note that this annotation just describes how the code works and doesn't add any functionality by means of code generation.
+ * It is recorded in the class files but is not available via reflection, so tools checking contracts at runtime
+ * have to read it from the class file bytes.<p>
  *
  * Method contract has the following syntax:<br>
  * <pre>{@code
@@ -31,6 +33,10 @@ import java.util.concurrent.atomic.AtomicBoolean;
  *  value-constraint ::= '_' | 'null' | '!null' | 'false' | 'true'
  *  effect ::= value-constraint | 'fail' | 'this' | 'new' | 'param<N>'}</pre> <p>
  *
+ * Whitespace between the tokens is insignificant. Every clause must list exactly as many argument constraints
+ * as the method has parameters, so a clause of a method without parameters starts with {@code ->}.
+ * Parameter numbers in {@code param<N>} are one-based.<p>
+ *
  * The constraints denote the following:<br>
  * <ul>
  * <li> _ - any value
@@ -73,6 +79,9 @@ public @interface Contract {
    * affect program state and change the semantics, unless method call throws an exception.
    * Exception throwing is not considered to be a side effect.
    * <p>
+   * A constructor can be marked as pure if it modifies only the object being created and objects it allocates;
+   * as with methods, an unused invocation can be removed unless it throws an exception.
+   * <p>
    * Method should not be marked as pure if it does not produce a side-effect by itself,
    * but it could be used to establish a happens-before relation between an event in
    * another thread, so changes performed in another thread might become visible in current thread
@@ -83,6 +92,10 @@ public @interface Contract {
    * <p>
    * "Invisible" side effects (such as logging) that don't affect the "important" program semantics are allowed.<br><br>
    * <p>
+   * Purity doesn't mean that the method returns the same result for the same arguments: a pure method may depend
+   * on mutable state (like {@link java.util.Collection#size()}) or return a new object on every call (see the {@code new} effect).
+   * So a pure method cannot be memoized in general.
+   * <p>
    * This annotation may be used for more precise data flow analysis, and
    * to check that the method's return value is actually used in the call place.
    */
@@ -99,7 +112,9 @@ public @interface Contract {
    *   <tr><td>"this,param1"</td><td>Method mutates the receiver and first argument and doesn't mutate any other arguments or observable program state</td></tr>
    *   <tr><td>"io,this"</td><td>Method performs input/output changing the outer world and mutates the receiver, but doesn't mutate any arguments or observable program state</td></tr>
    * </table>
-   *
+   * An empty string (the default) means that no mutation information is specified,
+   * unless the method is {@link #pure() pure}, in which case it mutates nothing.
+   * <p>
    * <strong>Warning: This annotation parameter is experimental and may be changed or removed without further notice!</strong>
    * @return a mutation specifier string
    */
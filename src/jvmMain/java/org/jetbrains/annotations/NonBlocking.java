@@ -21,6 +21,9 @@ import java.lang.annotation.*;
 /**
  * Indicates that the annotated method is inherently non-blocking and can be executed in a non-blocking context.
  * <p>
+ * A non-blocking method should not call, directly or through other methods, methods annotated {@code @Blocking}
+ * or blocking as defined in {@link Blocking}.
+ * <p>
  * When this annotation is used on a {@code class}, all the methods declared by the annotated class are considered
  * <em>non-blocking</em>.
  * <p>
@@ -25,6 +25,10 @@ import java.lang.annotation.*;
  * Apart from documentation purposes this annotation is intended to be used by static analysis tools
  * to validate against probable runtime errors and element contract violations.
  * <p>
+ * The annotation itself doesn't add any runtime checks, and {@code null} may still be passed by callers
+ * which are not verified by such tools (e.g. compiled separately or calling via reflection). Tools that remove
+ * explicit null checks of {@code @NotNull} values should take this into account.
+ * <p>
  * If a field is annotated as {@code @NotNull} it's expected to be initialized during object construction.
  * Tools may issue a warning if it's not the case.
  * <p>
@@ -43,7 +47,9 @@ import java.lang.annotation.*;
 @Target({ElementType.METHOD, ElementType.FIELD, ElementType.PARAMETER, ElementType.LOCAL_VARIABLE, ElementType.TYPE_USE})
 public @interface NotNull {
   /**
-   * @return Custom exception message
+   * @return Custom exception message that should be used when not-nullity contract is violated.
+   * If empty, tools that insert runtime not-null checks generate a default message
+   * which mentions the violating parameter or method.
    */
   String value() default "";
 
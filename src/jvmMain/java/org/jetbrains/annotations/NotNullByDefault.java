@@ -13,6 +13,10 @@ import java.lang.annotation.*;
  * Recursively not-null means that along with types themselves, the components of array types, the type arguments
  * of generic types and the upper bounds of wildcard types are also not-null.
  * <p>
+ * When applied to a class, the annotation also affects all the classes declared inside it, including nested,
+ * inner, local and anonymous classes. When applied to a package, it affects the classes of that package only;
+ * subpackages are not affected. Explicit nullability annotations always take precedence over the default.
+ * <p>
  * If a method overrides a superclass method, and the superclass method specifies the nullability on parameter
  * or return type, then the subclass method should specify the same nullability, either directly or indirectly
  * via {@code @NotNullByDefault}. The only exception is the covariant return type nullability: if the superclass
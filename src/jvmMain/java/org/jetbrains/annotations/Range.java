@@ -21,6 +21,11 @@ import java.lang.annotation.*;
  * An annotation which allows to specify for integral type (byte, char, short, int, long) an allowed values range.
  * Applying this annotation to other types is not correct.
  * <p>
+ * The {@link #from()} value must not be greater than the {@link #to()} value. A bound which lies outside
+ * the values of the annotated type imposes no additional restriction, so
+ * {@code @Range(from = 0, to = Long.MAX_VALUE) int} means any non-negative {@code int}.
+ * For {@code char}, the bounds are compared with its unsigned 16-bit value.
+ * <p>
  * Example:
  * <pre>{@code public @Range(from = 0, to = Integer.MAX_VALUE) int length() {
  *   return this.length; // returns a non-negative integer
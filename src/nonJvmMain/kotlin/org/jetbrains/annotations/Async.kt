@@ -46,7 +46,8 @@ actual class Async private actual constructor() {
     /**
      * Indicates that the marked method executes async computation.
      * Executed object is either `this`, or the annotated parameter value.
-     * This object needs to match with the one annotated with [Schedule]
+     * This object needs to match with the one annotated with [Schedule]:
+     * it must be the same instance, as objects are matched by identity rather than by `equals()`.
      */
     @Retention(AnnotationRetention.BINARY)
     @Target(
@@ -19,6 +19,13 @@ package org.jetbrains.annotations
  * Indicates that the annotated method is inherently blocking and should not be executed in a non-blocking context.
  *
  *
+ * A method is blocking if it may suspend the calling thread waiting for I/O, another thread, or a timeout,
+ * for example, by performing I/O, calling [Thread.sleep], [Object.wait]
+ * or [java.util.concurrent.locks.LockSupport.park], or joining another thread or future.
+ * Short lock acquisitions which only keep the internal data consistent, like entering a `synchronized`
+ * method of [java.util.Vector], are not considered blocking.
+ *
+ *
  * When this annotation is used on a `class`, all the methods declared by the annotated class are considered
  * *blocking*.
  *
@@ -18,6 +18,8 @@ package org.jetbrains.annotations
 /**
  * Specifies some aspects of the method behavior depending on the arguments. Can be used by tools for advanced data flow analysis.
  * Note that this annotation just describes how the code works and doesn't add any functionality by means of code generation.
+ * It is recorded in the compiled binaries but is not available via reflection, so tools checking contracts at runtime
+ * have to read it from the binaries.
  *
  *
  *
@@ -29,6 +31,10 @@ package org.jetbrains.annotations
  * value-constraint ::= '_' | 'null' | '!null' | 'false' | 'true'
  * effect ::= value-constraint | 'fail' | 'this' | 'new' | 'param<N>'`</pre>
  *
+ * Whitespace between the tokens is insignificant. Every clause must list exactly as many argument constraints
+ * as the method has parameters, so a clause of a method without parameters starts with `->`.
+ * Parameter numbers in `param<N>` are one-based.
+ *
  *
  *
  * The constraints denote the following:<br></br>
@@ -80,6 +86,10 @@ actual annotation class Contract(
      * Exception throwing is not considered to be a side effect.
      *
      *
+     * A constructor can be marked as pure if it modifies only the object being created and objects it allocates;
+     * as with methods, an unused invocation can be removed unless it throws an exception.
+     *
+     *
      * Method should not be marked as pure if it does not produce a side-effect by itself,
      * but it could be used to establish a happens-before relation between an event in
      * another thread, so changes performed in another thread might become visible in current thread
@@ -92,6 +102,11 @@ actual annotation class Contract(
      * "Invisible" side effects (such as logging) that don't affect the "important" program semantics are allowed.<br></br><br></br>
      *
      *
+     * Purity doesn't mean that the method returns the same result for the same arguments: a pure method may depend
+     * on mutable state (like [java.util.Collection.size]) or return a new object on every call (see the `new` effect).
+     * So a pure method cannot be memoized in general.
+     *
+     *
      * This annotation may be used for more precise data flow analysis, and
      * to check that the method's return value is actually used in the call place.
      */
@@ -100,12 +115,17 @@ actual annotation class Contract(
      * Contains a specifier which describes which method parameters can be mutated during the method call.
      * <table>
      * <caption>Possible values:</caption>
-     * <tr><td>"this"</td><td>Method mutates the receiver object, and doesn't mutates any objects passed as arguments (cannot be applied for static method or constructor)</td></tr>
-     * <tr><td>"param"</td><td>Method mutates the sole argument and doesn't mutate the receiver object (if applicable)</td></tr>
+     * <tr><td>"this"</td><td>Method mutates the receiver object, and doesn't mutate any objects passed as arguments (cannot be applied for static method or constructor)</td></tr>
+     * <tr><td>"param"</td><td>Method mutates the sole argument and doesn't mutate the receiver object (if applicable) or anything else</td></tr>
      * <tr><td>"param1", "param2", ...</td><td>Method mutates the N-th argument</td></tr>
-     * <tr><td>"this,param1"</td><td>Method mutates the receiver and first argument and doesn't mutate any other arguments</td></tr>
+     * <tr><td>"io"</td><td>Method performs input/output changing the outer world but does not mutate any observable program state</td></tr>
+     * <tr><td>"this,param1"</td><td>Method mutates the receiver and first argument and doesn't mutate any other arguments or observable program state</td></tr>
+     * <tr><td>"io,this"</td><td>Method performs input/output changing the outer world and mutates the receiver, but doesn't mutate any arguments or observable program state</td></tr>
     </table> *
+     * An empty string (the default) means that no mutation information is specified,
+     * unless the method is [pure], in which case it mutates nothing.
      *
+     * **Warning: This annotation parameter is experimental and may be changed or removed without further notice!**
      * @return a mutation specifier string
      */
     @get:NonNls actual val mutates: String = ""
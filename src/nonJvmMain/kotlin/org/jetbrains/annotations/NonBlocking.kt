@@ -19,6 +19,10 @@ package org.jetbrains.annotations
  * Indicates that the annotated method is inherently non-blocking and can be executed in a non-blocking context.
  *
  *
+ * A non-blocking method should not call, directly or through other methods, methods annotated `@Blocking`
+ * or blocking as defined in [Blocking].
+ *
+ *
  * When this annotation is used on a `class`, all the methods declared by the annotated class are considered
  * *non-blocking*.
  *
@@ -19,6 +19,11 @@ package org.jetbrains.annotations
  * An annotation which allows to specify for integral type (byte, char, short, int, long) an allowed values range.
  * Applying this annotation to other types is not correct.
  *
+ * The [from] value must not be greater than the [to] value. A bound which lies outside
+ * the values of the annotated type imposes no additional restriction, so
+ * `@Range(from = 0, to = Long.MAX_VALUE) Int` means any non-negative `Int`.
+ * For `char`, the bounds are compared with its unsigned 16-bit value.
+ *
  *
  * Example:
  * <pre>`public @Range(from = 0, to = Integer.MAX_VALUE) int length() {